@@ -0,0 +1,24 @@
+package com.example.productservice.controller;
+
+import com.example.productservice.service.HibernateStatisticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats/hibernate")
+public class HibernateStatisticsController {
+
+    private final HibernateStatisticsService service;
+    public HibernateStatisticsController(HibernateStatisticsService service){ this.service = service; }
+
+    @GetMapping
+    public ResponseEntity<HibernateStatisticsService.Snapshot> get(){
+        return ResponseEntity.ok(service.snapshot());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset(){
+        service.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.productservice.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.math.BigDecimal;
 import java.util.Objects;
 
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product") // ProductService updates in place, so soft-lock on write
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
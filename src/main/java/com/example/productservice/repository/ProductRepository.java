@@ -1,10 +1,23 @@
 package com.example.productservice.repository;
 
 import com.example.productservice.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    // GET: rows found by a search are not copied into the "product" entity region. This relies on Hibernate 6.2
+    // caching full result rows in "product-search", so a query cache hit needs no entity lookups and those puts
+    // would only evict hot by-id entries. Newer Hibernate (6.5+) can cache only ids for cacheable entities;
+    // with this hint every hit would then turn into one by-id load per row. The repository integration test
+    // asserts that a cached search prepares no statements.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "product-search"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET")
+    })
     List<Product> findByNameContainingIgnoreCase(String name);
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.example.productservice.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Read-only view over Hibernate's statistics, focused on the second-level and query caches. */
+@Service
+public class HibernateStatisticsService {
+
+    private final Statistics stats;
+
+    public HibernateStatisticsService(EntityManagerFactory emf) {
+        this.stats = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record CacheStats(long hits, long misses, long puts, double hitRatio) {
+        public static CacheStats of(long hits, long misses, long puts) {
+            long lookups = hits + misses;
+            return new CacheStats(hits, misses, puts, lookups == 0 ? 0.0 : (double) hits / lookups);
+        }
+    }
+
+    public record Snapshot(boolean enabled,
+                           CacheStats secondLevelCache,
+                           Map<String, CacheStats> regions,
+                           CacheStats queryCache,
+                           long queryExecutionCount,
+                           long slowestQueryMillis,
+                           String slowestQuery,
+                           long entityLoadCount,
+                           long transactionCount) {}
+
+    public Snapshot snapshot() {
+        Map<String, CacheStats> regions = new LinkedHashMap<>();
+        for (String region : stats.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics r = stats.getCacheRegionStatistics(region);
+            if (r != null) regions.put(region, CacheStats.of(r.getHitCount(), r.getMissCount(), r.getPutCount()));
+        }
+        return new Snapshot(
+                stats.isStatisticsEnabled(),
+                CacheStats.of(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount(),
+                        stats.getSecondLevelCachePutCount()),
+                regions,
+                CacheStats.of(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount(),
+                        stats.getQueryCachePutCount()),
+                stats.getQueryExecutionCount(),
+                stats.getQueryExecutionMaxTime(),
+                stats.getQueryExecutionMaxTimeQueryString(),
+                stats.getEntityLoadCount(),
+                stats.getTransactionCount());
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+}
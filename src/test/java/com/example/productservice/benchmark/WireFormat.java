@@ -0,0 +1,29 @@
+package com.example.productservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * The representations {@code ProductController} can negotiate. Smile and CBOR mappers match the ones
+ * Spring MVC builds for its converters; the JSON mapper uses plain Jackson defaults and so does not pick up
+ * Boot's {@code spring.jackson.*} customisations (this project sets none).
+ */
+public enum WireFormat {
+    JSON("application/json", () -> Jackson2ObjectMapperBuilder.json().build()),
+    SMILE("application/x-jackson-smile", () -> Jackson2ObjectMapperBuilder.smile().build()),
+    CBOR("application/cbor", () -> Jackson2ObjectMapperBuilder.cbor().build());
+
+    private final String mediaType;
+    private final Supplier<ObjectMapper> mapperFactory;
+
+    WireFormat(String mediaType, Supplier<ObjectMapper> mapperFactory) {
+        this.mediaType = mediaType;
+        this.mapperFactory = mapperFactory;
+    }
+
+    public String mediaType() { return mediaType; }
+
+    public ObjectMapper newMapper() { return mapperFactory.get(); }
+}
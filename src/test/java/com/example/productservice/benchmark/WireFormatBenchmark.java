@@ -0,0 +1,70 @@
+package com.example.productservice.benchmark;
+
+import com.example.productservice.model.Product;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a {@code List<Product>} (the search response) per wire format.
+ * {@code size = 1} stands in for single-product responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<Product>> PRODUCT_LIST = new TypeReference<>() {};
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    WireFormat format;
+
+    @Param({"1", "100", "1000"})
+    int size;
+
+    ObjectMapper mapper;
+    List<Product> products;
+    byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        mapper = format.newMapper();
+        products = products(size);
+        encoded = mapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return mapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<Product> deserialize() throws Exception {
+        return mapper.readValue(encoded, PRODUCT_LIST);
+    }
+
+    /** Catalog-like products: prices with cents, stock, short names and descriptions. */
+    static List<Product> products(int size) {
+        SplittableRandom rnd = new SplittableRandom(42L);
+        List<Product> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Product p = new Product("Apple Pro Phone X" + rnd.nextInt(1000),
+                    "apple phone, batch " + rnd.nextInt(100),
+                    BigDecimal.valueOf(99 + rnd.nextLong(500_000), 2));
+            p.setId(1L + rnd.nextLong(5_000_000));
+            p.setStock(rnd.nextInt(500));
+            p.setAvailable(rnd.nextBoolean());
+            list.add(p);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.productservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prints payload size per wire format, then runs {@link WireFormatBenchmark} for encode/decode CPU.
+ * Excluded from the normal build; run with {@code mvn -Pbenchmark test}, which skips the JaCoCo agent so
+ * the forked benchmark JVMs measure uninstrumented Jackson code.
+ */
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    @Test
+    void compareWireFormats() throws Exception {
+        System.out.printf("%-6s %12s %12s %12s%n", "format", "1 item", "100 items", "1000 items");
+        for (WireFormat format : WireFormat.values()) {
+            ObjectMapper mapper = format.newMapper();
+            System.out.printf("%-6s %10d B %10d B %10d B%n", format,
+                    mapper.writeValueAsBytes(WireFormatBenchmark.products(1)).length,
+                    mapper.writeValueAsBytes(WireFormatBenchmark.products(100)).length,
+                    mapper.writeValueAsBytes(WireFormatBenchmark.products(1000)).length);
+        }
+
+        Options options = new OptionsBuilder()
+                .include(WireFormatBenchmark.class.getSimpleName())
+                .build();
+        assertFalse(new Runner(options).run().isEmpty());
+    }
+}
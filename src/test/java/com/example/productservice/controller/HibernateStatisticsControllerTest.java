@@ -0,0 +1,51 @@
+package com.example.productservice.controller;
+
+import com.example.productservice.service.HibernateStatisticsService;
+import com.example.productservice.service.HibernateStatisticsService.CacheStats;
+import com.example.productservice.service.HibernateStatisticsService.Snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HibernateStatisticsController.class)
+class HibernateStatisticsControllerTest {
+
+    @Autowired MockMvc mvc;
+
+    @MockBean HibernateStatisticsService service;
+
+    @Test
+    void get_returnsSnapshot() throws Exception {
+        Snapshot snapshot = new Snapshot(true,
+                CacheStats.of(3, 1, 1),
+                Map.of("product", CacheStats.of(3, 1, 1)),
+                CacheStats.of(0, 2, 2),
+                2, 15, "select p from Product p", 4, 6);
+        when(service.snapshot()).thenReturn(snapshot);
+
+        mvc.perform(get("/api/stats/hibernate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.secondLevelCache.hitRatio").value(0.75))
+                .andExpect(jsonPath("$.regions.product.hits").value(3))
+                .andExpect(jsonPath("$.queryCache.misses").value(2))
+                .andExpect(jsonPath("$.slowestQuery").value("select p from Product p"));
+    }
+
+    @Test
+    void delete_resetsStatistics() throws Exception {
+        mvc.perform(delete("/api/stats/hibernate"))
+                .andExpect(status().isNoContent());
+
+        verify(service).reset();
+    }
+}
@@ -2,10 +2,14 @@ package com.example.productservice.controller;
 
 import com.example.productservice.model.Product;
 import com.example.productservice.service.ProductService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -17,6 +21,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 
 import static org.mockito.Mockito.*;
@@ -111,4 +116,77 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.id").value(1));*/
     }
 
-}
\ No newline at end of file
+    // Binary formats are negotiated through the Accept / Content-Type headers; JSON stays the default
+    @Test
+    @DisplayName("Get API in CBOR")
+    void get_withCborAccept_returnsCbor() throws Exception {
+        Product p = new Product("n","d", new BigDecimal("19.99"));
+        p.setId(1L);
+        when(service.getById(1L)).thenReturn(p);
+
+        byte[] body = mvc.perform(get("/api/products/1").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Product decoded = new CBORMapper().readValue(body, Product.class);
+        assertEquals(1L, decoded.getId());
+        assertEquals(new BigDecimal("19.99"), decoded.getPrice());
+    }
+
+    @Test
+    @DisplayName("Search API in Smile")
+    void search_withSmileAccept_returnsSmile() throws Exception {
+        when(service.searchByName("n")).thenReturn(List.of(
+                new Product("n1","d", BigDecimal.ONE), new Product("n2","d", BigDecimal.TEN)));
+
+        byte[] body = mvc.perform(get("/api/products/search").param("q", "n").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<Product> decoded = new SmileMapper().readValue(body, new TypeReference<List<Product>>() {});
+        assertEquals(2, decoded.size());
+        assertEquals("n2", decoded.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Create API with CBOR body")
+    void create_withCborBody_returns201() throws Exception {
+        Product saved = new Product("PS-5", "console", new BigDecimal("499.99"));
+        saved.setId(1L);
+        when(service.create(any())).thenReturn(saved);
+
+        byte[] body = mvc.perform(
+                        post("/api/products")
+                                .contentType("application/cbor")
+                                .accept("application/cbor")
+                                .content(new CBORMapper().writeValueAsBytes(new Product("PS-5", "console", new BigDecimal("499.99"))))
+                )
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // the CBOR request body must reach the service intact
+        ArgumentCaptor<Product> captor = ArgumentCaptor.forClass(Product.class);
+        verify(service).create(captor.capture());
+        assertEquals("PS-5", captor.getValue().getName());
+        assertEquals("console", captor.getValue().getDescription());
+        assertEquals(new BigDecimal("499.99"), captor.getValue().getPrice());
+
+        Product decoded = new CBORMapper().readValue(body, Product.class);
+        assertEquals(1L, decoded.getId());
+        assertEquals(new BigDecimal("499.99"), decoded.getPrice());
+    }
+
+    @Test
+    @DisplayName("Get API defaults to JSON")
+    void get_withoutAccept_returnsJson() throws Exception {
+        when(service.getById(1L)).thenReturn(new Product("n","d", BigDecimal.ONE));
+
+        mvc.perform(get("/api/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"));
+    }
+
+}
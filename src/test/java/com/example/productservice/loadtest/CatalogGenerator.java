@@ -0,0 +1,119 @@
+package com.example.productservice.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic catalog for load tests. The same seed always yields the same rows
+ * and the same search terms, so runs are comparable across machines and commits.
+ *
+ * Brands and categories are picked with a Zipf distribution: a handful of terms ("Apple",
+ * "Phone", ...) match a large share of the catalog while the long tail matches only a few rows,
+ * which is roughly what name searches look like in production.
+ */
+public class CatalogGenerator {
+
+    static final String[] BRANDS = {
+            "Apple", "Samsung", "Sony", "LG", "Dell", "HP", "Lenovo", "Asus", "Acer", "Bose",
+            "Philips", "Panasonic", "Xiaomi", "Huawei", "Google", "Microsoft", "Logitech", "Canon",
+            "Nikon", "JBL", "Garmin", "Fitbit", "OnePlus", "Motorola", "Nokia", "Razer", "Corsair",
+            "Anker", "Belkin", "Sennheiser", "Kingston", "SanDisk", "Seagate", "Epson", "Brother",
+            "Dyson", "Bosch", "Braun", "Toshiba", "Sharp"
+    };
+
+    static final String[] CATEGORIES = {
+            "Phone", "Laptop", "Watch", "Headphones", "Tablet", "Monitor", "Keyboard", "Mouse",
+            "Speaker", "Camera", "Charger", "Cable", "Router", "Printer", "Television", "Earbuds",
+            "Drive", "Projector", "Microphone", "Webcam", "Console", "Controller", "Dock", "Lens",
+            "Tripod", "Scanner", "Vacuum", "Shaver", "Toaster", "Kettle"
+    };
+
+    static final String[] MODIFIERS = {
+            "Pro", "Max", "Mini", "Ultra", "Air", "Lite", "Plus", "Slim", "Neo", "Edge",
+            "Wireless", "Portable", "Gaming", "Smart", "Classic", "Studio", "Compact", "Sport"
+    };
+
+    private static final String INSERT_SQL =
+            "insert into products (name, description, price, stock, available) values (?, ?, ?, ?, ?)";
+
+    private final long seed;
+    private final ZipfSampler brandSampler = new ZipfSampler(BRANDS.length, 1.1);
+    private final ZipfSampler categorySampler = new ZipfSampler(CATEGORIES.length, 0.9);
+
+    public CatalogGenerator(long seed) { this.seed = seed; }
+
+    /** Produces the {@code index}-th row of the catalog; independent of any other row. */
+    public Object[] row(long index) {
+        SplittableRandom rnd = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        String brand = BRANDS[brandSampler.sample(rnd)];
+        String category = CATEGORIES[categorySampler.sample(rnd)];
+        StringBuilder name = new StringBuilder(brand).append(' ');
+        if (rnd.nextInt(100) < 60) {
+            name.append(MODIFIERS[rnd.nextInt(MODIFIERS.length)]).append(' ');
+        }
+        name.append(category).append(' ').append((char) ('A' + rnd.nextInt(26))).append(rnd.nextInt(1000));
+
+        String description = brand + " " + category.toLowerCase() + ", batch " + (index / 10_000);
+        BigDecimal price = BigDecimal.valueOf(99 + rnd.nextLong(500_000), 2);
+        int stock = rnd.nextInt(500);
+        boolean available = rnd.nextInt(100) < 90;
+        return new Object[]{name.toString(), description, price, stock, available};
+    }
+
+    /**
+     * Inserts {@code count} rows with JDBC batches. Going through JPA would be far too slow for
+     * millions of rows because IDENTITY ids disable Hibernate insert batching.
+     */
+    public void populate(JdbcTemplate jdbc, long count, int batchSize) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = 0; i < count; i++) {
+            batch.add(row(i));
+            if (batch.size() == batchSize) {
+                jdbc.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) jdbc.batchUpdate(INSERT_SQL, batch);
+    }
+
+    /**
+     * A search term shaped like what users type once they know what they want: the name of a random
+     * catalog-like product cut after the model letter ("apple pro phone k"), sometimes the full name,
+     * and ~5% terms that match nothing. Bare brand or category terms are avoided on purpose: with the
+     * Zipf skew above, "apple" alone matches over a quarter of the catalog, and the unpaginated search
+     * endpoint would load and serialise all of it.
+     */
+    public String searchTerm(SplittableRandom rnd) {
+        int roll = rnd.nextInt(100);
+        if (roll < 5) return "zz" + rnd.nextInt(10_000);
+        String name = ((String) row(rnd.nextLong(Long.MAX_VALUE))[0]).toLowerCase();
+        if (roll < 20) return name;
+        int modelStart = name.lastIndexOf(' ') + 1;
+        return name.substring(0, modelStart + 1);
+    }
+
+    /** Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent. */
+    static final class ZipfSampler {
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) cumulative[i] /= sum;
+        }
+
+        int sample(SplittableRandom rnd) {
+            int idx = Arrays.binarySearch(cumulative, rnd.nextDouble());
+            return Math.min(idx >= 0 ? idx : -idx - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.productservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogGeneratorTest {
+
+    @Test
+    void sameSeed_producesSameRowsAndSearchTerms(){
+        CatalogGenerator a = new CatalogGenerator(7L);
+        CatalogGenerator b = new CatalogGenerator(7L);
+
+        for (long i = 0; i < 1_000; i++) {
+            assertArrayEquals(a.row(i), b.row(i));
+        }
+        SplittableRandom ra = new SplittableRandom(1L);
+        SplittableRandom rb = new SplittableRandom(1L);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(a.searchTerm(ra), b.searchTerm(rb));
+        }
+    }
+
+    @Test
+    void brandNames_areSkewedTowardsTheHead(){
+        CatalogGenerator gen = new CatalogGenerator(7L);
+        int head = 0, tail = 0;
+        for (long i = 0; i < 10_000; i++) {
+            String name = (String) gen.row(i)[0];
+            if (name.startsWith(CatalogGenerator.BRANDS[0] + " ")) head++;
+            if (name.startsWith(CatalogGenerator.BRANDS[CatalogGenerator.BRANDS.length - 1] + " ")) tail++;
+        }
+        assertTrue(head > tail * 10, "head=" + head + " tail=" + tail);
+    }
+
+    @Test
+    void searchTerms_matchOnlyASmallSliceOfTheCatalog(){
+        CatalogGenerator gen = new CatalogGenerator(7L);
+        List<String> names = new ArrayList<>();
+        for (long i = 0; i < 20_000; i++) names.add(((String) gen.row(i)[0]).toLowerCase());
+
+        SplittableRandom rnd = new SplittableRandom(1L);
+        long totalMatches = 0;
+        long maxMatches = 0;
+        for (int i = 0; i < 200; i++) {
+            String term = gen.searchTerm(rnd);
+            long matches = names.stream().filter(n -> n.contains(term)).count();
+            totalMatches += matches;
+            maxMatches = Math.max(maxMatches, matches);
+        }
+        // ~20 rows out of 20k on average; bare brand terms would be in the thousands
+        assertTrue(totalMatches / 200.0 < names.size() * 0.002, "avg=" + totalMatches / 200.0);
+        assertTrue(maxMatches < names.size() * 0.01, "max=" + maxMatches);
+    }
+}
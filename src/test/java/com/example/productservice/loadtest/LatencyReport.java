@@ -0,0 +1,82 @@
+package com.example.productservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency percentiles of a load run, per operation and overall. Only successful
+ * responses are recorded in the histograms; requests that failed or were still outstanding when
+ * the run ended are reported as {@code failed}.
+ */
+public class LatencyReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<Operation, Histogram> latencies;
+    private final Map<Operation, AtomicLong> sent;
+    private final Duration measured;
+
+    LatencyReport(Map<Operation, Histogram> latencies, Map<Operation, AtomicLong> sent, Duration measured) {
+        this.latencies = latencies;
+        this.sent = sent;
+        this.measured = measured;
+    }
+
+    public Histogram total() {
+        Histogram total = new Histogram(3);
+        latencies.values().forEach(total::add);
+        return total;
+    }
+
+    public long failed(Operation op) {
+        return sent.get(op).get() - latencies.get(op).getTotalCount();
+    }
+
+    public long totalFailed() {
+        return sent.keySet().stream().mapToLong(this::failed).sum();
+    }
+
+    /** Empty when the run met every SLO the profile sets; one message per breached objective otherwise. */
+    public List<String> sloViolations(LoadProfile profile) {
+        List<String> violations = new ArrayList<>();
+        long sentTotal = total().getTotalCount() + totalFailed();
+        double errorRate = sentTotal == 0 ? 0.0 : (double) totalFailed() / sentTotal;
+        if (profile.maxErrorRate() != null && errorRate > profile.maxErrorRate()) {
+            violations.add(String.format("error rate %.4f > %.4f", errorRate, profile.maxErrorRate()));
+        }
+        double p99Millis = total().getValueAtPercentile(99) / NANOS_PER_MILLI;
+        if (profile.p99Millis() != null && p99Millis > profile.p99Millis()) {
+            violations.add(String.format("p99 %.2f ms > %d ms", p99Millis, profile.p99Millis()));
+        }
+        return violations;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-13s %9s %7s %10s %10s %10s %10s %10s%n",
+                "operation", "ok", "failed", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (Map.Entry<Operation, Histogram> e : latencies.entrySet()) {
+            appendLine(sb, e.getKey().name(), e.getValue(), failed(e.getKey()));
+        }
+        appendLine(sb, "TOTAL", total(), totalFailed());
+        return sb.toString();
+    }
+
+    private void appendLine(StringBuilder sb, String label, Histogram h, long failedCount) {
+        double seconds = measured.toMillis() / 1000.0;
+        sb.append(String.format("%-13s %9d %7d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                label,
+                h.getTotalCount(),
+                failedCount,
+                h.getTotalCount() / seconds,
+                h.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                h.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                h.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                h.getMaxValue() / NANOS_PER_MILLI));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.productservice.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Knobs for a load run. Every value can be overridden with a {@code -Dloadtest.*} system property
+ * so the same test class serves both a quick smoke run and a multi-million row soak.
+ *
+ * The defaults are meant to pass on a single core. Search is an unindexed {@code LIKE '%q%'} scan,
+ * so its cost grows linearly with {@code catalogSize} (~150 ms per search at 100k rows on one core);
+ * scale {@code rps} down as the catalog grows.
+ *
+ * {@code maxErrorRate} and {@code p99Millis} are the latency SLO; each is only enforced when set
+ * ({@code null} otherwise), so by default a run just reports.
+ */
+public record LoadProfile(long catalogSize,
+                          int requestsPerSecond,
+                          Duration warmup,
+                          Duration duration,
+                          int getWeight,
+                          int searchWeight,
+                          int createWeight,
+                          int updatePriceWeight,
+                          long seed,
+                          Double maxErrorRate,
+                          Long p99Millis) {
+
+    public LoadProfile {
+        if (catalogSize <= 0) throw new IllegalArgumentException("catalogSize must be positive");
+        if (requestsPerSecond <= 0) throw new IllegalArgumentException("requestsPerSecond must be positive");
+        if (getWeight < 0 || searchWeight < 0 || createWeight < 0 || updatePriceWeight < 0)
+            throw new IllegalArgumentException("operation weights must not be negative");
+        if (getWeight + searchWeight + createWeight + updatePriceWeight <= 0)
+            throw new IllegalArgumentException("at least one operation weight must be positive");
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Long.getLong("loadtest.catalogSize", 20_000),
+                Integer.getInteger("loadtest.rps", 30),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30)),
+                Integer.getInteger("loadtest.mix.get", 60),
+                Integer.getInteger("loadtest.mix.search", 25),
+                Integer.getInteger("loadtest.mix.create", 10),
+                Integer.getInteger("loadtest.mix.updatePrice", 5),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.maxErrorRate") == null
+                        ? null : Double.valueOf(System.getProperty("loadtest.maxErrorRate")),
+                Long.getLong("loadtest.p99Millis"));
+    }
+
+    int totalWeight() { return getWeight + searchWeight + createWeight + updatePriceWeight; }
+}
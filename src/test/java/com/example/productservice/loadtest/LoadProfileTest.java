@@ -0,0 +1,33 @@
+package com.example.productservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadProfileTest {
+
+    private static LoadProfile profile(long catalogSize, int get, int search, int create, int updatePrice){
+        return new LoadProfile(catalogSize, 10, Duration.ZERO, Duration.ofSeconds(1),
+                get, search, create, updatePrice, 42L, null, null);
+    }
+
+    @Test
+    void emptyCatalog_throws(){
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> profile(0, 60, 25, 10, 5));
+        assertEquals("catalogSize must be positive", ex.getMessage());
+    }
+
+    @Test
+    void negativeWeight_throws(){
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> profile(100, -10, 25, 10, 5));
+        assertEquals("operation weights must not be negative", ex.getMessage());
+    }
+
+    @Test
+    void zeroWeights_areAllowedAsLongAsOneIsPositive(){
+        assertDoesNotThrow(() -> profile(100, 0, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> profile(100, 0, 0, 0, 0));
+    }
+}
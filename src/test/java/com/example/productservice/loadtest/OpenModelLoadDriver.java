@@ -0,0 +1,137 @@
+package com.example.productservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load driver: requests are started on a fixed schedule no matter how long
+ * earlier requests take, like independent users arriving at the service.
+ *
+ * Latency is measured from the <em>intended</em> start time rather than the actual send time,
+ * so a stalled server shows up in the tail percentiles instead of silently lowering the
+ * request rate (coordinated omission).
+ */
+public class OpenModelLoadDriver {
+
+    private final String baseUrl;
+    private final LoadProfile profile;
+    private final CatalogGenerator catalog;
+    private final long minId;
+    private final long maxId;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> sent = new EnumMap<>(Operation.class);
+
+    public OpenModelLoadDriver(String baseUrl, LoadProfile profile, CatalogGenerator catalog, long minId, long maxId) {
+        this.baseUrl = baseUrl;
+        this.profile = profile;
+        this.catalog = catalog;
+        this.minId = minId;
+        this.maxId = maxId;
+        for (Operation op : Operation.values()) {
+            latencies.put(op, new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(60), 3));
+            sent.put(op, new AtomicLong());
+        }
+    }
+
+    public LatencyReport run() throws InterruptedException {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+        SplittableRandom rnd = new SplittableRandom(profile.seed());
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.requestsPerSecond();
+        long warmupNanos = profile.warmup().toNanos();
+        long totalNanos = warmupNanos + profile.duration().toNanos();
+        long start = System.nanoTime();
+        AtomicLong inFlight = new AtomicLong();
+
+        for (long i = 0; ; i++) {
+            long offset = i * intervalNanos;
+            if (offset >= totalNanos) break;
+            long intended = start + offset;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            Operation op = pickOperation(rnd);
+            HttpRequest request = buildRequest(op, rnd);
+            boolean measured = offset >= warmupNanos;
+            if (measured) sent.get(op).incrementAndGet();
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.decrementAndGet();
+                        if (!measured || failure != null || response.statusCode() >= 400) return;
+                        long latency = System.nanoTime() - intended;
+                        latencies.get(op).recordValue(Math.min(latency, TimeUnit.SECONDS.toNanos(60)));
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        executor.shutdownNow();
+
+        return new LatencyReport(latencies, sent, profile.duration());
+    }
+
+    private Operation pickOperation(SplittableRandom rnd) {
+        int roll = rnd.nextInt(profile.totalWeight());
+        if ((roll -= profile.getWeight()) < 0) return Operation.GET_BY_ID;
+        if ((roll -= profile.searchWeight()) < 0) return Operation.SEARCH;
+        if ((roll -= profile.createWeight()) < 0) return Operation.CREATE;
+        return Operation.UPDATE_PRICE;
+    }
+
+    private HttpRequest buildRequest(Operation op, SplittableRandom rnd) {
+        return switch (op) {
+            case GET_BY_ID -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + randomId(rnd)))
+                    .GET().build();
+            case SEARCH -> {
+                String q = URLEncoder.encode(catalog.searchTerm(rnd), StandardCharsets.UTF_8);
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/search?q=" + q))
+                        .GET().build();
+            }
+            case CREATE -> {
+                Object[] row = catalog.row(rnd.nextLong(Long.MAX_VALUE));
+                String json = String.format(
+                        "{\"name\":\"%s\",\"description\":\"%s\",\"price\":%s,\"stock\":%d,\"available\":%b}",
+                        row[0], row[1], row[2], row[3], row[4]);
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/products"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build();
+            }
+            case UPDATE_PRICE -> {
+                BigDecimal price = BigDecimal.valueOf(99 + rnd.nextLong(500_000), 2);
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + randomId(rnd) + "/" + price))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                        .build();
+            }
+        };
+    }
+
+    private long randomId(SplittableRandom rnd) {
+        return minId + rnd.nextLong(maxId - minId + 1);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.productservice.loadtest;
+
+/** The {@code ProductController} endpoints exercised by the load driver. */
+public enum Operation {
+    GET_BY_ID,
+    SEARCH,
+    CREATE,
+    UPDATE_PRICE
+}
@@ -0,0 +1,51 @@
+package com.example.productservice.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the real {@code ProductController} over HTTP against the embedded H2 database.
+ * Excluded from the normal build; run with {@code mvn -Ploadtest test}. The report is always
+ * printed; the test only fails when nothing got through or a configured SLO is breached.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductLoadTest {
+
+    @LocalServerPort int port;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void mixedReadWriteLoad_reportsLatency() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        CatalogGenerator catalog = new CatalogGenerator(profile.seed());
+
+        long t0 = System.nanoTime();
+        catalog.populate(jdbc, profile.catalogSize(), 10_000);
+        System.out.printf("Generated %d products in %d ms%n",
+                profile.catalogSize(), (System.nanoTime() - t0) / 1_000_000);
+
+        long minId = jdbc.queryForObject("select min(id) from products", Long.class);
+        long maxId = jdbc.queryForObject("select max(id) from products", Long.class);
+
+        OpenModelLoadDriver driver = new OpenModelLoadDriver(
+                "http://localhost:" + port, profile, catalog, minId, maxId);
+        LatencyReport report = driver.run();
+
+        List<String> violations = report.sloViolations(profile);
+        System.out.println(profile);
+        System.out.println(report.format());
+        System.out.println(violations.isEmpty() ? "SLO: met" : "SLO: violated - " + String.join(", ", violations));
+
+        assertTrue(report.total().getTotalCount() > 0, "no request succeeded, is the server reachable?");
+        assertTrue(violations.isEmpty(), String.join(", ", violations));
+    }
+}
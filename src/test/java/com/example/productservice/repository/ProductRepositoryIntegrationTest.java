@@ -1,21 +1,43 @@
 package com.example.productservice.repository;
 
 import com.example.productservice.model.Product;
+import com.example.productservice.service.HibernateStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ProductRepositoryIntegrationTest {
 
     @Autowired
     ProductRepository repo;
 
+    @Autowired
+    EntityManagerFactory emf;
+
+    @Autowired
+    TransactionTemplate tx;
+
+    // Rows committed by the NOT_SUPPORTED cache tests; removed even when an assertion fails
+    Long committedId;
+
+    @AfterEach
+    void deleteCommittedRow(){
+        if (committedId != null) tx.executeWithoutResult(s -> repo.deleteById(committedId));
+    }
+
     @Test
     void findByNameContainingIgnoreCase_works(){
         Product p1 = new Product("Apple phone", "d", BigDecimal.TEN);
@@ -26,4 +48,50 @@ class ProductRepositoryIntegrationTest {
         List<Product> res = repo.findByNameContainingIgnoreCase("apple");
         assertEquals(2, res.size());
     }
-}
\ No newline at end of file
+
+    // Each step runs in its own committed transaction so the persistence context can't answer for the cache
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findById_secondLookup_isServedFromSecondLevelCache(){
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        committedId = tx.execute(s -> repo.save(new Product("Cached phone", "d", BigDecimal.TEN)).getId());
+        emf.getCache().evictAll();
+        stats.clear();
+
+        tx.executeWithoutResult(s -> repo.findById(committedId).orElseThrow());
+        tx.executeWithoutResult(s -> repo.findById(committedId).orElseThrow());
+
+        assertEquals(1, stats.getSecondLevelCacheMissCount());
+        assertEquals(1, stats.getSecondLevelCacheHitCount());
+
+        HibernateStatisticsService.Snapshot snapshot = new HibernateStatisticsService(emf).snapshot();
+        assertTrue(snapshot.enabled());
+        assertEquals(new HibernateStatisticsService.CacheStats(1, 1, 1, 0.5), snapshot.secondLevelCache());
+        assertEquals(new HibernateStatisticsService.CacheStats(1, 1, 1, 0.5), snapshot.regions().get("product"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findByNameContainingIgnoreCase_repeatedQuery_isServedFromQueryCache(){
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        committedId = tx.execute(s -> repo.save(new Product("Cached watch", "d", BigDecimal.ONE)).getId());
+        emf.getCache().evictAll();
+        stats.clear();
+
+        tx.executeWithoutResult(s -> assertEquals(1, repo.findByNameContainingIgnoreCase("cached watch").size()));
+        long statementsBefore = stats.getPrepareStatementCount();
+        tx.executeWithoutResult(s -> assertEquals(1, repo.findByNameContainingIgnoreCase("cached watch").size()));
+        assertEquals(0, stats.getPrepareStatementCount() - statementsBefore); // a hit must not fall back to by-id loads
+
+        assertEquals(1, stats.getQueryCacheMissCount());
+        assertEquals(1, stats.getQueryCacheHitCount());
+        assertEquals(1, stats.getQueryExecutionCount());
+        assertEquals(0, stats.getCacheRegionStatistics("product").getPutCount()); // search must not flood the entity region
+
+        HibernateStatisticsService.Snapshot snapshot = new HibernateStatisticsService(emf).snapshot();
+        assertEquals(new HibernateStatisticsService.CacheStats(1, 1, 1, 0.5), snapshot.queryCache());
+        assertEquals(1, snapshot.queryExecutionCount());
+        assertTrue(snapshot.slowestQuery().contains("from products"), snapshot.slowestQuery());
+        assertTrue(snapshot.regions().containsKey("product-search"), snapshot.regions().toString());
+    }
+}